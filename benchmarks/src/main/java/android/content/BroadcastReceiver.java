@@ -0,0 +1,6 @@
+package android.content;
+
+/** Desktop stand-in for {@code android.content.BroadcastReceiver}. */
+public abstract class BroadcastReceiver {
+    public abstract void onReceive(Context context, Intent intent);
+}
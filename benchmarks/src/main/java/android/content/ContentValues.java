@@ -0,0 +1,39 @@
+package android.content;
+
+import java.util.HashMap;
+
+/**
+ * <p>Desktop stand-in for {@code android.content.ContentValues}, backed
+ * by a {@link HashMap} like the framework class.</p>
+ */
+public final class ContentValues {
+    private final HashMap<String, Object> mValues = new HashMap<String, Object>(8);
+
+    public void put(String key, String value) {
+        mValues.put(key, value);
+    }
+
+    public void put(String key, Integer value) {
+        mValues.put(key, value);
+    }
+
+    public void put(String key, Long value) {
+        mValues.put(key, value);
+    }
+
+    public void put(String key, Float value) {
+        mValues.put(key, value);
+    }
+
+    public void put(String key, Double value) {
+        mValues.put(key, value);
+    }
+
+    public Object get(String key) {
+        return mValues.get(key);
+    }
+
+    public int size() {
+        return mValues.size();
+    }
+}
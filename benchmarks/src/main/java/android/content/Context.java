@@ -0,0 +1,17 @@
+package android.content;
+
+/**
+ * <p>Desktop stand-in for {@code android.content.Context}. The
+ * benchmarks never call into the SDK paths that need a real context;
+ * this only exists so that SDK classes link on a plain JVM.</p>
+ */
+public abstract class Context {
+    public static final String WIFI_SERVICE = "wifi";
+    public static final String CONNECTIVITY_SERVICE = "connectivity";
+
+    public abstract Object getSystemService(String name);
+
+    public abstract String getPackageName();
+
+    public abstract Intent registerReceiver(BroadcastReceiver receiver, IntentFilter filter);
+}
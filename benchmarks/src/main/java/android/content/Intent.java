@@ -0,0 +1,21 @@
+package android.content;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Desktop stand-in for {@code android.content.Intent}, holding int extras only. */
+public class Intent {
+    public static final String ACTION_BATTERY_CHANGED = "android.intent.action.BATTERY_CHANGED";
+
+    private final Map<String, Integer> mExtras = new HashMap<String, Integer>();
+
+    public Intent putExtra(String name, int value) {
+        mExtras.put(name, value);
+        return this;
+    }
+
+    public int getIntExtra(String name, int defaultValue) {
+        Integer value = mExtras.get(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,14 @@
+package android.content;
+
+/** Desktop stand-in for {@code android.content.IntentFilter}. */
+public class IntentFilter {
+    private final String mAction;
+
+    public IntentFilter(String action) {
+        mAction = action;
+    }
+
+    public final String getAction(int index) {
+        return mAction;
+    }
+}
@@ -0,0 +1,33 @@
+package android.database;
+
+/**
+ * <p>Desktop stand-in for {@code android.database.Cursor}, limited to
+ * the methods that the SDK's row readers call.</p>
+ */
+public interface Cursor {
+    int getCount();
+
+    int getPosition();
+
+    boolean moveToFirst();
+
+    boolean moveToNext();
+
+    boolean moveToPosition(int position);
+
+    int getColumnIndex(String columnName);
+
+    String getString(int columnIndex);
+
+    int getInt(int columnIndex);
+
+    long getLong(int columnIndex);
+
+    float getFloat(int columnIndex);
+
+    double getDouble(int columnIndex);
+
+    void close();
+
+    boolean isClosed();
+}
@@ -0,0 +1,8 @@
+package android.net;
+
+/** Desktop stand-in for {@code android.net.ConnectivityManager}. */
+public class ConnectivityManager {
+    public NetworkInfo getActiveNetworkInfo() {
+        return new NetworkInfo();
+    }
+}
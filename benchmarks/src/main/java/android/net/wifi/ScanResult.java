@@ -0,0 +1,10 @@
+package android.net.wifi;
+
+/** Desktop stand-in for {@code android.net.wifi.ScanResult}. */
+public class ScanResult {
+    public String SSID;
+    public String BSSID;
+    public String capabilities;
+    public int level;
+    public int frequency;
+}
@@ -0,0 +1,40 @@
+package android.net.wifi;
+
+/** Desktop stand-in for {@code android.net.wifi.WifiInfo}. */
+public class WifiInfo {
+    private String mSSID;
+    private String mBSSID;
+    private boolean mHiddenSSID;
+    private int mIpAddress;
+    private int mLinkSpeed;
+    private int mNetworkId = -1;
+    private int mRssi = -9999;
+
+    public String getSSID() {
+        return mSSID;
+    }
+
+    public String getBSSID() {
+        return mBSSID;
+    }
+
+    public boolean getHiddenSSID() {
+        return mHiddenSSID;
+    }
+
+    public int getIpAddress() {
+        return mIpAddress;
+    }
+
+    public int getLinkSpeed() {
+        return mLinkSpeed;
+    }
+
+    public int getNetworkId() {
+        return mNetworkId;
+    }
+
+    public int getRssi() {
+        return mRssi;
+    }
+}
@@ -0,0 +1,19 @@
+package android.net.wifi;
+
+import java.util.Collections;
+import java.util.List;
+
+/** Desktop stand-in for {@code android.net.wifi.WifiManager}; Wi-Fi is always off. */
+public class WifiManager {
+    public boolean isWifiEnabled() {
+        return false;
+    }
+
+    public WifiInfo getConnectionInfo() {
+        return new WifiInfo();
+    }
+
+    public List<ScanResult> getScanResults() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,16 @@
+package android.os;
+
+/** Desktop stand-in for {@code android.os.Build} with fixed device values. */
+public class Build {
+    public static final String MODEL = "jvm";
+    public static final String MANUFACTURER = "benchmark";
+    public static final String BRAND = "benchmark";
+    public static final String DEVICE = "jvm";
+    public static final String PRODUCT = "jvm";
+
+    public static class VERSION {
+        public static final String RELEASE = "2.0";
+        public static final String SDK = "5";
+        public static final int SDK_INT = 5;
+    }
+}
@@ -0,0 +1,9 @@
+package android.os;
+
+/** Desktop stand-in for {@code android.os.Handler} that runs posts inline. */
+public class Handler {
+    public final boolean post(Runnable r) {
+        r.run();
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Desktop stand-in for {@code android.os.Parcel}. Values are kept in
+ * write order and read back sequentially.</p>
+ */
+public final class Parcel {
+    private final List<Object> mValues = new ArrayList<Object>();
+    private int mReadPosition = 0;
+
+    public static Parcel obtain() {
+        return new Parcel();
+    }
+
+    public void recycle() {
+        mValues.clear();
+        mReadPosition = 0;
+    }
+
+    public void setDataPosition(int position) {
+        mReadPosition = position;
+    }
+
+    public void writeByte(byte value) {
+        mValues.add(value);
+    }
+
+    public void writeInt(int value) {
+        mValues.add(value);
+    }
+
+    public void writeString(String value) {
+        mValues.add(value);
+    }
+
+    public byte readByte() {
+        return (Byte) mValues.get(mReadPosition++);
+    }
+
+    public int readInt() {
+        return (Integer) mValues.get(mReadPosition++);
+    }
+
+    public String readString() {
+        return (String) mValues.get(mReadPosition++);
+    }
+}
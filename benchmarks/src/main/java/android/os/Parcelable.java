@@ -0,0 +1,14 @@
+package android.os;
+
+/** Desktop stand-in for {@code android.os.Parcelable}. */
+public interface Parcelable {
+    int describeContents();
+
+    void writeToParcel(Parcel dest, int flags);
+
+    interface Creator<T> {
+        T createFromParcel(Parcel source);
+
+        T[] newArray(int size);
+    }
+}
@@ -0,0 +1,8 @@
+package android.provider;
+
+/** Desktop stand-in for {@code android.provider.BaseColumns}. */
+public interface BaseColumns {
+    public static final String _ID = "_id";
+
+    public static final String _COUNT = "_count";
+}
@@ -0,0 +1,8 @@
+package android.text;
+
+/** Desktop stand-in for {@code android.text.TextUtils}. */
+public class TextUtils {
+    public static boolean isEmpty(CharSequence str) {
+        return str == null || str.length() == 0;
+    }
+}
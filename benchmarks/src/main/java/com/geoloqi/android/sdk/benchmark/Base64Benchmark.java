@@ -0,0 +1,53 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.geoloqi.android.sdk.util.Base64;
+
+/**
+ * <p>Cost of the SDK's bundled {@link Base64} coder, which sits under
+ * every access point column written to and read from the fixes table.
+ * Sizes cover a single access point up to a busy nearby-AP scan.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Base64Benchmark {
+    @Param({"64", "1024", "16384"})
+    public int size;
+
+    private byte[] mData;
+    private byte[] mEncoded;
+
+    @Setup
+    public void setUp() {
+        mData = new byte[size];
+        new Random(42).nextBytes(mData);
+        mEncoded = Base64.encode(mData, Base64.DEFAULT);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return Base64.encode(mData, Base64.DEFAULT);
+    }
+
+    @Benchmark
+    public String encodeToString() {
+        return Base64.encodeToString(mData, Base64.DEFAULT);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Base64.decode(mEncoded, Base64.DEFAULT);
+    }
+}
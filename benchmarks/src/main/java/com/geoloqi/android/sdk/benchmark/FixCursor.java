@@ -0,0 +1,139 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+
+import com.geoloqi.android.sdk.provider.LQContract;
+
+/**
+ * <p>An in-memory {@link Cursor} over rows of the fixes table. Column
+ * indexes are resolved through a name map, as {@code SQLiteCursor}
+ * does, so that the SDK's row readers do the same lookups they would
+ * on a device.</p>
+ */
+class FixCursor implements Cursor {
+    private static final String[] COLUMNS = {
+        LQContract.Fixes._ID,
+        LQContract.Fixes.PROVIDER,
+        LQContract.Fixes.LATITUDE,
+        LQContract.Fixes.LONGITUDE,
+        LQContract.Fixes.SPEED,
+        LQContract.Fixes.ALTITUDE,
+        LQContract.Fixes.HORIZONTAL_ACCURACY,
+        LQContract.Fixes.PROFILE,
+        LQContract.Fixes.BATTERY,
+        LQContract.Fixes.BATTERY_STATE,
+        LQContract.Fixes.POWER_SOURCE,
+        LQContract.Fixes.CHARGING,
+        LQContract.Fixes.FIX_SENT,
+        LQContract.Fixes.FIX_CREATED_ON,
+        LQContract.Fixes.MIN_TIME,
+        LQContract.Fixes.MIN_DISTANCE,
+        LQContract.Fixes.CURRENT_ACCESS_POINT,
+        LQContract.Fixes.NEARBY_ACCESS_POINTS
+    };
+
+    private static final Map<String, Integer> COLUMN_INDEXES = new HashMap<String, Integer>();
+
+    static {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            COLUMN_INDEXES.put(COLUMNS[i], i);
+        }
+    }
+
+    private final List<ContentValues> mRows;
+    private int mPosition = -1;
+    private boolean mClosed;
+
+    FixCursor(List<ContentValues> rows) {
+        mRows = rows;
+    }
+
+    @Override
+    public int getCount() {
+        return mRows.size();
+    }
+
+    @Override
+    public int getPosition() {
+        return mPosition;
+    }
+
+    @Override
+    public boolean moveToFirst() {
+        return moveToPosition(0);
+    }
+
+    @Override
+    public boolean moveToNext() {
+        return moveToPosition(mPosition + 1);
+    }
+
+    @Override
+    public boolean moveToPosition(int position) {
+        if (position >= mRows.size()) {
+            mPosition = mRows.size();
+            return false;
+        }
+        mPosition = Math.max(-1, position);
+        return mPosition >= 0;
+    }
+
+    @Override
+    public int getColumnIndex(String columnName) {
+        Integer index = COLUMN_INDEXES.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = get(columnIndex);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        Object value = get(columnIndex);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        Object value = get(columnIndex);
+        return value != null ? ((Number) value).longValue() : 0l;
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        Object value = get(columnIndex);
+        return value != null ? ((Number) value).floatValue() : 0.0f;
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object value = get(columnIndex);
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    @Override
+    public void close() {
+        mClosed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    private Object get(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= COLUMNS.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid column index %d!", columnIndex));
+        }
+        return mRows.get(mPosition).get(COLUMNS[columnIndex]);
+    }
+}
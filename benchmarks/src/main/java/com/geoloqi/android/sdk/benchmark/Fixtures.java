@@ -0,0 +1,90 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import android.content.ContentValues;
+
+import com.geoloqi.android.sdk.LQTracker.LQTrackerProfile;
+import com.geoloqi.android.sdk.data.LQAccessPoint;
+import com.geoloqi.android.sdk.data.LQLocation;
+import com.geoloqi.android.sdk.provider.LQContract;
+
+/**
+ * <p>Deterministic sample data shared by the benchmarks. Values are
+ * chosen to look like a device walking through downtown Portland with
+ * Wi-Fi scanning enabled.</p>
+ */
+final class Fixtures {
+    /** 2012-10-16T15:54:00Z, roughly when the bundled SDK was built. */
+    static final long START_TIME = 1350402840000l;
+
+    private Fixtures() {
+    }
+
+    /** Build a populated access point; {@code i} varies the BSSID and signal. */
+    static LQAccessPoint accessPoint(int i) {
+        LQAccessPoint ap = new LQAccessPoint();
+        ap.setSSID(String.format("geoloqi-%d", i % 8));
+        ap.setBSSID(String.format("00:1a:2b:3c:%02x:%02x", (i >> 8) & 0xff, i & 0xff));
+        ap.setCapabilities("[WPA2-PSK-CCMP][ESS]");
+        ap.setFrequency(2412 + 5 * (i % 11));
+        ap.setLevel(-40 - (i % 50));
+        ap.setRssi(-40 - (i % 50));
+        ap.setLinkSpeed(54);
+        ap.setLinkSpeedUnits("Mbps");
+        ap.setNetworkId(-1);
+        return ap;
+    }
+
+    /** Build the nearby access point list for a single scan. */
+    static LQAccessPoint[] nearbyAccessPoints(int count) {
+        LQAccessPoint[] nearby = new LQAccessPoint[count];
+        for (int i = 0; i < count; i++) {
+            nearby[i] = accessPoint(i);
+        }
+        return nearby;
+    }
+
+    /**
+     * Build the {@code n}th fix of a track. Access points are only
+     * attached when {@code nearbyAccessPoints} is greater than zero,
+     * matching a device with Wi-Fi disabled.
+     */
+    static LQLocation location(int n, int nearbyAccessPoints) {
+        LQLocation location = new LQLocation("gps");
+        location.setLatitude(45.5234 + n * 0.00001);
+        location.setLongitude(-122.6762 - n * 0.00001);
+        location.setAltitude(15.0 + (n % 10));
+        location.setSpeed(1.4f);
+        location.setBearing(270.0f);
+        location.setAccuracy(8.0f + (n % 5));
+        location.setTime(START_TIME + n * 5000l);
+        location.setProfile(LQTrackerProfile.ADAPTIVE);
+        location.setBattery(80);
+        location.setBatteryState(3);
+        location.setPowerSource(0);
+        location.setMinTime(5000l);
+        location.setMinDistance(10.0f);
+        if (nearbyAccessPoints > 0) {
+            location.setCurrentAccessPoint(accessPoint(0));
+            location.setNearbyAccessPoints(nearbyAccessPoints(nearbyAccessPoints));
+        }
+        return location;
+    }
+
+    /**
+     * Build the rows the tracker would have written to the fixes table
+     * for a batch of {@code count} unsent fixes.
+     */
+    static List<ContentValues> fixRows(int count, int nearbyAccessPoints) {
+        List<ContentValues> rows = new ArrayList<ContentValues>(count);
+        for (int n = 0; n < count; n++) {
+            ContentValues values = location(n, nearbyAccessPoints).toContentValues();
+            values.put(LQContract.Fixes._ID, n + 1);
+            values.put(LQContract.Fixes.FIX_SENT, 0);
+            rows.add(values);
+        }
+        return rows;
+    }
+}
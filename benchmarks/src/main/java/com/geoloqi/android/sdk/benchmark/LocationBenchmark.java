@@ -0,0 +1,54 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.net.DatagramPacket;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.geoloqi.android.sdk.data.LQLocation;
+
+/**
+ * <p>Per-fix serialization cost: the JSON form used for batched HTTP
+ * uploads and the binary datagram used by the real-time profile.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LocationBenchmark {
+    @Param({"0", "10"})
+    public int nearbyAccessPoints;
+
+    private LQLocation mLocation;
+    private UUID mDeviceUuid;
+
+    @Setup
+    public void setUp() {
+        mLocation = Fixtures.location(0, nearbyAccessPoints);
+        mDeviceUuid = UUID.nameUUIDFromBytes("geoloqi-benchmark".getBytes());
+    }
+
+    @Benchmark
+    public JSONObject toJson() throws JSONException {
+        return mLocation.toJson();
+    }
+
+    @Benchmark
+    public String toJsonString() throws JSONException {
+        return mLocation.toJson().toString();
+    }
+
+    @Benchmark
+    public DatagramPacket toDatagramPacket() {
+        return mLocation.toDatagramPacket(mDeviceUuid);
+    }
+}
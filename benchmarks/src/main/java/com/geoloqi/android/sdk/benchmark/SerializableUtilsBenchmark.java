@@ -0,0 +1,74 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.geoloqi.android.sdk.data.LQAccessPoint;
+import com.geoloqi.android.sdk.util.SerializableUtils;
+
+/**
+ * <p>Round-trip cost of {@link SerializableUtils} for the objects the
+ * tracker actually stores: the current access point and the array of
+ * nearby access points on each fix row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SerializableUtilsBenchmark {
+    private LQAccessPoint mCurrentAccessPoint;
+    private String mSerializedCurrentAccessPoint;
+
+    @Setup
+    public void setUp() throws IOException {
+        mCurrentAccessPoint = Fixtures.accessPoint(0);
+        mSerializedCurrentAccessPoint = SerializableUtils.toString(mCurrentAccessPoint);
+    }
+
+    /** A single scan's worth of nearby access points. */
+    @State(Scope.Benchmark)
+    public static class NearbyAccessPoints {
+        @Param({"10", "30"})
+        public int count;
+
+        private LQAccessPoint[] mAccessPoints;
+        private String mSerialized;
+
+        @Setup
+        public void setUp() throws IOException {
+            mAccessPoints = Fixtures.nearbyAccessPoints(count);
+            mSerialized = SerializableUtils.toString(mAccessPoints);
+        }
+    }
+
+    @Benchmark
+    public String serializeCurrentAccessPoint() throws IOException {
+        return SerializableUtils.toString(mCurrentAccessPoint);
+    }
+
+    @Benchmark
+    public Serializable deserializeCurrentAccessPoint() throws IOException,
+            ClassNotFoundException {
+        return SerializableUtils.fromString(mSerializedCurrentAccessPoint);
+    }
+
+    @Benchmark
+    public String serializeNearbyAccessPoints(NearbyAccessPoints nearby) throws IOException {
+        return SerializableUtils.toString(nearby.mAccessPoints);
+    }
+
+    @Benchmark
+    public Serializable deserializeNearbyAccessPoints(NearbyAccessPoints nearby)
+            throws IOException, ClassNotFoundException {
+        return SerializableUtils.fromString(nearby.mSerialized);
+    }
+}
@@ -0,0 +1,50 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.geoloqi.android.sdk.LQSession;
+
+/**
+ * <p>The static request helpers on {@link LQSession}: query string
+ * encoding for GET requests and the ISO 8601 timestamp written into
+ * every fix and request header.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SessionBenchmark {
+    private Map<String, String> mParams;
+    private long mTime;
+
+    @Setup
+    public void setUp() {
+        mParams = new LinkedHashMap<String, String>();
+        mParams.put("device_id", "3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+        mParams.put("mac", "00:1a:2b:3c:4d:5e");
+        mParams.put("layer_ids", "1Wn,2Xp,3Yq");
+        mParams.put("group_tokens", "abc123,def456");
+        mParams.put("display_name", "Sample User & Friends");
+        mParams.put("is_anonymous", "1");
+        mTime = Fixtures.START_TIME;
+    }
+
+    @Benchmark
+    public String urlencode() {
+        return LQSession.urlencode(mParams);
+    }
+
+    @Benchmark
+    public String formatTimestamp() {
+        return LQSession.formatTimestamp(mTime);
+    }
+}
@@ -0,0 +1,71 @@
+package com.geoloqi.android.sdk.benchmark;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+
+import com.geoloqi.android.sdk.data.LQLocation;
+import com.geoloqi.android.sdk.provider.LQContract;
+
+/**
+ * <p>Builds a full {@code location/update} request body the way
+ * {@code LQTracker.uploadLocationQueue} does: walk the unsent-fix
+ * cursor, inflate an {@link LQLocation} per row (deserializing its
+ * access points), convert it to JSON and collect the row ids, then
+ * render the array to the UTF-8 bytes sent on the wire.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UploadBatchBenchmark {
+    @Param({"1000"})
+    public int batchSize;
+
+    @Param({"0", "10"})
+    public int nearbyAccessPoints;
+
+    private List<ContentValues> mRows;
+
+    @Setup
+    public void setUp() {
+        mRows = Fixtures.fixRows(batchSize, nearbyAccessPoints);
+    }
+
+    @Benchmark
+    public byte[] buildBatch() throws JSONException, UnsupportedEncodingException {
+        Cursor cursor = new FixCursor(mRows);
+        List<String> ids = new ArrayList<String>(cursor.getCount());
+        JSONArray batch = new JSONArray();
+        try {
+            int idColumn = cursor.getColumnIndex(LQContract.Fixes._ID);
+            while (cursor.moveToNext()) {
+                batch.put(new LQLocation(cursor).toJson());
+                ids.add(Integer.toString(cursor.getInt(idColumn)));
+            }
+        } finally {
+            cursor.close();
+        }
+        
+        // The ids are kept for markLocationFixesAsSent; fold them in so
+        // the list can't be optimized away.
+        if (ids.size() != batch.length()) {
+            throw new IllegalStateException("Batch and id list are out of sync!");
+        }
+        return batch.toString().getBytes("UTF-8");
+    }
+}
@@ -4,11 +4,16 @@ import android.app.Activity;
 import android.content.ComponentName;
 import android.content.Intent;
 import android.content.ServiceConnection;
-import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.location.Location;
+import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.Handler;
 import android.os.IBinder;
+import android.os.SystemClock;
+import android.util.Log;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -16,8 +21,8 @@ import android.widget.TextView;
 
 import com.geoloqi.android.sample.R;
 import com.geoloqi.android.sample.receiver.SampleReceiver;
-import com.geoloqi.android.sdk.LQTracker;
 import com.geoloqi.android.sdk.LQTracker.LQTrackerProfile;
+import com.geoloqi.android.sdk.provider.LQContract;
 import com.geoloqi.android.sdk.provider.LQDatabaseHelper;
 import com.geoloqi.android.sdk.receiver.LQBroadcastReceiver;
 import com.geoloqi.android.sdk.service.LQService;
@@ -34,16 +39,53 @@ import com.geoloqi.android.sdk.service.LQService.LQBinder;
 public class LauncherActivity extends Activity implements SampleReceiver.OnLocationChangedListener,
         SampleReceiver.OnTrackerProfileChangedListener, SampleReceiver.OnLocationUploadedListener {
     public static final String TAG = "LauncherActivity";
+    
+    /** Counts the fixes that have not yet been uploaded. */
+    private static final String BATCHED_LOCATION_COUNT_QUERY = String.format(
+            "SELECT COUNT(*) FROM %s WHERE %s = 0", LQContract.Fixes.TABLE_NAME,
+            LQContract.Fixes.FIX_SENT);
+    
+    /** The minimum time between location display refreshes. */
+    private static final long LOCATION_DISPLAY_INTERVAL = 1000;
+    
+    /**
+     * Cold-start trace state. These are process-wide so that recreating
+     * the activity (e.g. on rotation) or relaunching it while
+     * {@link LQService} is already running doesn't restart the clock.
+     * The trace is abandoned if the activity is paused before both
+     * milestones are logged, so only an uninterrupted foreground launch
+     * reports numbers.
+     */
+    private static long sStartTime;
+    private static boolean sFirstFixLogged;
+    private static boolean sFirstUploadLogged;
 
     private LQService mService;
     private boolean mBound;
     private SampleReceiver mLocationReceiver = new SampleReceiver();
+    private LQDatabaseHelper mDatabaseHelper;
+    private BatchedLocationCountTask mCountTask;
+    private boolean mCountPending;
+    private final Object mDatabaseLock = new Object();
+    private boolean mDatabaseInUse;
+    private boolean mDatabaseCloseRequested;
+    private Handler mHandler = new Handler();
+    private Location mPendingLocation;
+    private long mLastLocationDisplayed;
 
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        
+        // Only start the trace clock on a real cold start
+        if (savedInstanceState == null && sStartTime == 0) {
+            sStartTime = SystemClock.elapsedRealtime();
+        }
         setContentView(R.layout.main);
         
+        // Share a single database helper for the lifetime of the activity
+        mDatabaseHelper = new LQDatabaseHelper(this);
+        
         // Start the tracking service
         Intent intent = new Intent(this, LQService.class);
         startService(intent);
@@ -74,6 +116,33 @@ public class LauncherActivity extends Activity implements SampleReceiver.OnLocat
         
         // Unregister our location receiver
         unregisterReceiver(mLocationReceiver);
+        
+        // Drop any throttled location refresh
+        mHandler.removeCallbacks(mShowPendingLocation);
+        mPendingLocation = null;
+        
+        // Our receiver misses broadcasts while paused, so abandon the
+        // startup trace; any milestone not yet logged would be wrong.
+        sFirstFixLogged = true;
+        sFirstUploadLogged = true;
+    }
+
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        
+        // Stop counting batched fixes and release the database. If a
+        // count is still running the task closes the helper when it
+        // finishes, so we never wait on a query from the main thread.
+        if (mCountTask != null) {
+            mCountTask.cancel(false);
+        }
+        synchronized (mDatabaseLock) {
+            mDatabaseCloseRequested = true;
+            if (!mDatabaseInUse) {
+                mDatabaseHelper.close();
+            }
+        }
     }
 
     @Override
@@ -96,18 +165,69 @@ public class LauncherActivity extends Activity implements SampleReceiver.OnLocat
 
     /**
      * Display the number of batched location fixes waiting to be sent.
+     * The count is read off the UI thread; requests that arrive while
+     * a count is already running are coalesced into a single re-query.
      */
     private void showBatchedLocationCount() {
-        TextView updates = (TextView) findViewById(R.id.batched_updates);
-        if (updates != null) {
-            final LQTracker tracker = mService.getTracker();
-            final LQDatabaseHelper helper = new LQDatabaseHelper(this);
-            final SQLiteDatabase db = helper.getWritableDatabase();
-            final Cursor c = tracker.getBatchedLocationFixes(db);
-            updates.setText(String.format("%d batched updates",
-                            c.getCount()));
-            c.close();
-            db.close();
+        if (mCountTask != null) {
+            mCountPending = true;
+            return;
+        }
+        mCountTask = new BatchedLocationCountTask();
+        mCountTask.execute();
+    }
+
+    /**
+     * Counts the unsent location fixes with a single
+     * compiled COUNT(*) statement.
+     */
+    private class BatchedLocationCountTask extends AsyncTask<Void, Void, Long> {
+        @Override
+        protected Long doInBackground(Void... params) {
+            synchronized (mDatabaseLock) {
+                if (mDatabaseCloseRequested) {
+                    return null;
+                }
+                mDatabaseInUse = true;
+            }
+            
+            SQLiteStatement statement = null;
+            try {
+                SQLiteDatabase db = mDatabaseHelper.getReadableDatabase();
+                statement = db.compileStatement(BATCHED_LOCATION_COUNT_QUERY);
+                return statement.simpleQueryForLong();
+            } catch (SQLiteException e) {
+                Log.w(TAG, "Unable to count batched location fixes!", e);
+                return null;
+            } finally {
+                if (statement != null) {
+                    statement.close();
+                }
+                
+                // Close the helper if the activity was destroyed mid-query
+                synchronized (mDatabaseLock) {
+                    mDatabaseInUse = false;
+                    if (mDatabaseCloseRequested) {
+                        mDatabaseHelper.close();
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected void onPostExecute(Long count) {
+            mCountTask = null;
+            
+            TextView updates = (TextView) findViewById(R.id.batched_updates);
+            if (updates != null && count != null) {
+                updates.setText(String.format("%d batched updates", count));
+            }
+            
+            // Re-query once if the count changed while we were busy
+            if (mCountPending) {
+                mCountPending = false;
+                showBatchedLocationCount();
+            }
         }
     }
 
@@ -142,6 +262,19 @@ public class LauncherActivity extends Activity implements SampleReceiver.OnLocat
         }
     }
 
+    /** Displays the most recent location held back by the throttle. */
+    private Runnable mShowPendingLocation = new Runnable() {
+        @Override
+        public void run() {
+            if (mPendingLocation != null) {
+                mLastLocationDisplayed = SystemClock.elapsedRealtime();
+                showCurrentLocation(mPendingLocation);
+                showBatchedLocationCount();
+                mPendingLocation = null;
+            }
+        }
+    };
+
     /** Defines callbacks for service binding, passed to bindService() */
     private ServiceConnection mConnection = new ServiceConnection() {
         @Override
@@ -179,12 +312,37 @@ public class LauncherActivity extends Activity implements SampleReceiver.OnLocat
 
     @Override
     public void onLocationChanged(Location location) {
-        showBatchedLocationCount();
-        showCurrentLocation(location);
+        // Note that this measures when the broadcast reached the
+        // foreground activity, not when LQTracker accepted the fix.
+        if (sStartTime != 0 && !sFirstFixLogged) {
+            sFirstFixLogged = true;
+            Log.d(TAG, String.format(
+                    "Time to first fix broadcast delivered to foreground activity: %dms",
+                    SystemClock.elapsedRealtime() - sStartTime));
+        }
+        
+        // Coalesce bursts of fixes (e.g. the real-time profile) so the
+        // views are refreshed with only the latest fix once per interval.
+        boolean scheduled = (mPendingLocation != null);
+        mPendingLocation = location;
+        if (!scheduled) {
+            long elapsed = SystemClock.elapsedRealtime() - mLastLocationDisplayed;
+            mHandler.postDelayed(mShowPendingLocation,
+                    Math.max(0, LOCATION_DISPLAY_INTERVAL - elapsed));
+        }
     }
 
     @Override
     public void onLocationUploaded(int count) {
+        // As above, this is when the upload broadcast reached the
+        // activity rather than when the server acknowledged the batch.
+        if (sStartTime != 0 && !sFirstUploadLogged) {
+            sFirstUploadLogged = true;
+            Log.d(TAG, String.format(
+                    "Time to first upload broadcast delivered to foreground activity: %dms",
+                    SystemClock.elapsedRealtime() - sStartTime));
+        }
+        
         showBatchedLocationCount();
     }
 }